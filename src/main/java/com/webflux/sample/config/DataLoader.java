@@ -5,6 +5,7 @@ import com.webflux.sample.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -19,13 +20,20 @@ import java.util.Random;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@EnableConfigurationProperties(DataLoaderProperties.class)
 public class DataLoader {
 
     private final UserRepository userRepository;
+    private final DataLoaderProperties properties;
     private final Random random = new Random();
 
     @EventListener(ApplicationReadyEvent.class)
     public void loadData() {
+        if (!properties.isEnabled()) {
+            log.info("더미 데이터 생성이 비활성화되어 있습니다. (app.data-loader.enabled=false)");
+            return;
+        }
+
         log.info("시작: 더미 데이터 생성");
         
         // 데이터베이스에 이미 있는 사용자 수 확인
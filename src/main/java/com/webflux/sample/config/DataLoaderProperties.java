@@ -0,0 +1,17 @@
+package com.webflux.sample.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 더미 데이터 시딩 설정 (app.data-loader.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.data-loader")
+public class DataLoaderProperties {
+
+    /**
+     * 시작 시 더미 데이터 생성 여부 (fast-startup 프로파일에서는 false)
+     */
+    private boolean enabled = true;
+}
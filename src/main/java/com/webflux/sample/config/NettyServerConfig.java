@@ -0,0 +1,100 @@
+package com.webflux.sample.config;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactor Netty 서버 튜닝
+ * 장시간 유지되는 SSE 연결과 짧은 CRUD 요청이 함께 들어오는 환경을 위해
+ * 이벤트 루프 크기, 전송 계층, 버퍼 할당, 연결 수 제한을 설정
+ * 명시적으로 지정한 항목만 적용하며, 아무것도 지정하지 않으면 서버 구성을 바꾸지 않음
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(NettyServerProperties.class)
+public class NettyServerConfig implements DisposableBean {
+
+    // direct 메모리를 우선 사용하는 풀링 할당자 (PooledByteBufAllocator.DEFAULT는 플랫폼에 따라 heap 버퍼를 사용할 수 있음)
+    private static final PooledByteBufAllocator POOLED_DIRECT_ALLOCATOR = new PooledByteBufAllocator(true);
+
+    private final NettyServerProperties properties;
+
+    // 스레드 수를 지정한 경우에만 생성하는 서버 전용 이벤트 루프 (WebClient 등 클라이언트와 분리)
+    private LoopResources serverLoopResources;
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerCustomizer() {
+        return factory -> factory.addServerCustomizers(httpServer -> {
+            boolean preferNative = properties.getPreferNative() == null || properties.getPreferNative();
+            if (properties.getWorkerThreads() != null || properties.getSelectorThreads() != null) {
+                httpServer = httpServer.runOn(serverLoopResources(), preferNative);
+            } else if (properties.getPreferNative() != null) {
+                // 스레드 수는 그대로 두고 전송 계층만 변경
+                httpServer = httpServer.runOn(HttpResources.get(), preferNative);
+            }
+
+            if (properties.getPooledDirectBuffers() != null) {
+                httpServer = httpServer.childOption(ChannelOption.ALLOCATOR, properties.getPooledDirectBuffers()
+                        ? POOLED_DIRECT_ALLOCATOR
+                        : UnpooledByteBufAllocator.DEFAULT);
+            }
+
+            if (properties.getMaxInFlightPerConnection() != null) {
+                httpServer = httpServer.http2Settings(settings ->
+                        settings.maxConcurrentStreams(properties.getMaxInFlightPerConnection()));
+            }
+
+            if (properties.getMaxConnections() != null) {
+                int maxConnections = properties.getMaxConnections();
+                AtomicInteger activeConnections = new AtomicInteger();
+                httpServer = httpServer.doOnChannelInit((observer, channel, remoteAddress) -> {
+                    int active = activeConnections.incrementAndGet();
+                    channel.closeFuture().addListener(future -> activeConnections.decrementAndGet());
+                    if (active > maxConnections) {
+                        log.warn("최대 연결 수({}) 초과로 연결을 종료합니다: {}", maxConnections, remoteAddress);
+                        channel.close();
+                    }
+                });
+            }
+
+            return httpServer;
+        });
+    }
+
+    private synchronized LoopResources serverLoopResources() {
+        if (serverLoopResources == null) {
+            int workers = properties.getWorkerThreads() != null
+                    ? properties.getWorkerThreads()
+                    : LoopResources.DEFAULT_IO_WORKER_COUNT;
+
+            log.info("Netty 이벤트 루프 설정: selector {}개, worker {}개",
+                    properties.getSelectorThreads() != null ? properties.getSelectorThreads() : "공유", workers);
+
+            serverLoopResources = properties.getSelectorThreads() != null
+                    ? LoopResources.create("webflux-http", properties.getSelectorThreads(), workers, true)
+                    : LoopResources.create("webflux-http", workers, true);
+        }
+        return serverLoopResources;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (serverLoopResources != null) {
+            serverLoopResources.dispose();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.webflux.sample.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Reactor Netty 서버 튜닝 설정 (app.server.netty.*)
+ * 지정하지 않은 항목은 서버에 적용하지 않으므로 Spring Boot / Reactor Netty 기본 구성이 그대로 유지됨
+ *
+ * HTTP/2(h2c)는 server.http2.enabled, 유휴 연결 타임아웃은 server.netty.idle-timeout 으로 설정
+ */
+@Data
+@ConfigurationProperties(prefix = "app.server.netty")
+public class NettyServerProperties {
+
+    /**
+     * 이벤트 루프(워커) 스레드 수, 지정하면 서버 전용 이벤트 루프를 생성
+     */
+    private Integer workerThreads;
+
+    /**
+     * 연결 수락(selector) 전용 스레드 수, 지정하면 서버 전용 이벤트 루프를 생성
+     */
+    private Integer selectorThreads;
+
+    /**
+     * Linux에서 epoll 네이티브 전송 계층 사용 여부 (사용 불가능한 환경에서는 NIO로 대체)
+     * Reactor Netty 기본값도 true이므로 epoll 라이브러리가 있으면 지정하지 않아도 epoll 사용
+     */
+    private Boolean preferNative;
+
+    /**
+     * true: direct 메모리를 사용하는 풀링 할당자, false: 풀링하지 않는 할당자
+     */
+    private Boolean pooledDirectBuffers;
+
+    /**
+     * 동시 연결 수 제한 (초과한 연결은 즉시 종료)
+     */
+    private Integer maxConnections;
+
+    /**
+     * 연결당 동시 처리 스트림 수 (HTTP/2 SETTINGS_MAX_CONCURRENT_STREAMS)
+     */
+    private Long maxInFlightPerConnection;
+}
@@ -0,0 +1,39 @@
+package com.webflux.sample.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webflux.sample.service.UserStreamService;
+import com.webflux.sample.websocket.DemandDrivenWebSocketHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+
+import java.util.Map;
+
+/**
+ * WebSocket 스트리밍 엔드포인트 설정
+ */
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public HandlerMapping webSocketHandlerMapping(UserStreamService userStreamService,
+                                                  Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // 스프링 부트 Jackson 설정(JavaTimeModule 등)을 그대로 사용하는 CBOR 매퍼
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+
+        Map<String, WebSocketHandler> handlers = Map.of(
+                "/ws/stream/users",
+                new DemandDrivenWebSocketHandler(userStreamService::streamUsers, cborMapper),
+                "/ws/stream/users/chunked",
+                new DemandDrivenWebSocketHandler(userStreamService::streamUsersInChunks, cborMapper),
+                "/ws/stream/time",
+                new DemandDrivenWebSocketHandler(userStreamService::streamTime, cborMapper));
+
+        // 어노테이션 기반 컨트롤러보다 먼저 매칭
+        return new SimpleUrlHandlerMapping(handlers, -1);
+    }
+}
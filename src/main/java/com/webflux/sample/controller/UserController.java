@@ -3,11 +3,14 @@ package com.webflux.sample.controller;
 import com.webflux.sample.entity.User;
 import com.webflux.sample.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -20,6 +23,18 @@ public class UserController {
         return userService.findAllUsers();
     }
 
+    @GetMapping("/count")
+    public Mono<Long> countUsers() {
+        return userService.countUsers();
+    }
+
+    @GetMapping("/created")
+    public Flux<User> getUsersCreatedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return userService.findUsersCreatedBetween(from, to);
+    }
+
     @GetMapping("/{id}")
     public Mono<User> getUserById(@PathVariable Long id) {
         return userService.findUserById(id);
@@ -0,0 +1,41 @@
+package com.webflux.sample.controller;
+
+import com.webflux.sample.entity.User;
+import com.webflux.sample.service.UserStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * RSocket request-stream 스트리밍 (ws://localhost:8080/rsocket)
+ * 클라이언트의 REQUEST_N 프레임이 그대로 R2DBC 쿼리의 요청량이 됨
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class UserStreamRSocketController {
+
+    private final UserStreamService userStreamService;
+
+    @MessageMapping("stream.users")
+    public Flux<User> streamUsers() {
+        log.info("RSocket 스트리밍 시작: 사용자 데이터");
+        return userStreamService.streamUsers();
+    }
+
+    @MessageMapping("stream.users.chunked")
+    public Flux<List<User>> streamUsersInChunks() {
+        log.info("RSocket 스트리밍 시작: 사용자 데이터 청크");
+        return userStreamService.streamUsersInChunks();
+    }
+
+    @MessageMapping("stream.time")
+    public Flux<String> streamTime() {
+        log.info("RSocket 스트리밍 시작: 시간 데이터");
+        return userStreamService.streamTime();
+    }
+}
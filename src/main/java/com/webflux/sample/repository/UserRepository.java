@@ -3,10 +3,15 @@ package com.webflux.sample.repository;
 import com.webflux.sample.entity.User;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Repository
-public interface UserRepository extends R2dbcRepository<User, Long> {
+public interface UserRepository extends R2dbcRepository<User, Long>, UserRepositoryCustom {
     
     Mono<User> findByEmail(String email);
+
+    Flux<User> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to);
 }
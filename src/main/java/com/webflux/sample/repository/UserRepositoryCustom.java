@@ -0,0 +1,26 @@
+package com.webflux.sample.repository;
+
+import com.webflux.sample.entity.User;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserRepository의 기본 delete 메서드를 대체하는 fragment
+ * R2DBC에는 삭제 콜백이 없으므로, 모든 삭제를 한 곳에서 처리해 사용자 스냅샷에 반영
+ */
+public interface UserRepositoryCustom {
+
+    Mono<Void> deleteById(Long id);
+
+    Mono<Void> deleteById(Publisher<Long> id);
+
+    Mono<Void> delete(User user);
+
+    Mono<Void> deleteAllById(Iterable<? extends Long> ids);
+
+    Mono<Void> deleteAll(Iterable<? extends User> users);
+
+    Mono<Void> deleteAll(Publisher<? extends User> users);
+
+    Mono<Void> deleteAll();
+}
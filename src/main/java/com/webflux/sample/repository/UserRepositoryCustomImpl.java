@@ -0,0 +1,84 @@
+package com.webflux.sample.repository;
+
+import com.webflux.sample.entity.User;
+import com.webflux.sample.snapshot.UserSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * 삭제 쿼리 실행 후 삭제된 id를 사용자 스냅샷에 반영
+ * DatabaseClient 등으로 직접 실행한 DELETE는 여기를 거치지 않으므로 UserSnapshot.refresh()로 맞춰야 함
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final R2dbcEntityTemplate entityTemplate;
+    private final UserSnapshot userSnapshot;
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        Assert.notNull(id, "Id must not be null");
+        return entityTemplate.delete(query(where("id").is(id)), User.class)
+                .doOnSuccess(deleted -> userSnapshot.onDeleted(id))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<Long> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(User user) {
+        Assert.notNull(user, "Entity must not be null");
+        return deleteById(user.getId());
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends Long> ids) {
+        Assert.notNull(ids, "The iterable of Id's must not be null");
+        return Flux.<Long>fromIterable(ids)
+                .collectList()
+                .flatMap(this::deleteIds);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends User> users) {
+        Assert.notNull(users, "The iterable of entities must not be null");
+        return deleteAll(Flux.fromIterable(users));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends User> users) {
+        return Flux.from(users)
+                .<Long>map(User::getId)
+                .collectList()
+                .flatMap(this::deleteIds);
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return entityTemplate.delete(User.class)
+                .all()
+                .doOnSuccess(deleted -> userSnapshot.onDeletedAll())
+                .then();
+    }
+
+    private Mono<Void> deleteIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return entityTemplate.delete(query(where("id").in(ids)), User.class)
+                .doOnSuccess(deleted -> userSnapshot.onDeleted(ids))
+                .then();
+    }
+}
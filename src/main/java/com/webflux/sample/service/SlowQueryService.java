@@ -2,6 +2,7 @@ package com.webflux.sample.service;
 
 import com.webflux.sample.entity.User;
 import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.snapshot.UserSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import java.util.Random;
 public class SlowQueryService {
 
     private final UserRepository userRepository;
+    private final UserSnapshot userSnapshot;
     private final Random random = new Random();
 
     /**
@@ -60,7 +62,9 @@ public class SlowQueryService {
     public Flux<String> processLargeDataSet() {
         log.info("대량 데이터 처리 시작");
         
-        return userRepository.findAll()
+        // 스냅샷이 적재되어 있으면 R2DBC 대신 메모리의 컬럼형 스냅샷을 스캔
+        Flux<User> users = Flux.defer(() -> userSnapshot.isReady() ? userSnapshot.findAll() : userRepository.findAll());
+        return users
                 .windowTimeout(100, Duration.ofSeconds(1)) // 100개씩 윈도우로 처리
                 .flatMap(window -> window
                         .map(user -> {
@@ -2,16 +2,20 @@ package com.webflux.sample.service;
 
 import com.webflux.sample.entity.User;
 import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.snapshot.UserSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserSnapshot userSnapshot;
 
     public Flux<User> findAllUsers() {
         return userRepository.findAll();
@@ -25,6 +29,24 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * 사용자 수 조회, 스냅샷이 적재되어 있으면 R2DBC 없이 메모리에서 계산
+     */
+    public Mono<Long> countUsers() {
+        return Mono.defer(() -> userSnapshot.count()
+                .map(Mono::just)
+                .orElseGet(userRepository::count));
+    }
+
+    /**
+     * 가입일 범위 조회 (양 끝 포함), 스냅샷이 적재되어 있으면 R2DBC 없이 메모리에서 조회
+     */
+    public Flux<User> findUsersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return Flux.defer(() -> userSnapshot.findCreatedBetween(from, to)
+                .map(Flux::fromIterable)
+                .orElseGet(() -> userRepository.findByCreatedAtBetween(from, to)));
+    }
+
     public Mono<User> createUser(User user) {
         return userRepository.save(user);
     }
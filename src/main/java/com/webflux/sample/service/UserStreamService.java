@@ -0,0 +1,60 @@
+package com.webflux.sample.service;
+
+import com.webflux.sample.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RSocket / WebSocket 스트리밍용 사용자 데이터 조회
+ * 클라이언트의 요청량(request-n)이 R2DBC 쿼리까지 그대로 전달되도록
+ * delayElements 처럼 미리 당겨오는(prefetch) 연산자를 사용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStreamService {
+
+    // 드라이버가 한 번에 가져오는 행 수 힌트 (PostgreSQL은 이 단위로 커서를 읽음)
+    private static final int FETCH_SIZE = 32;
+    // 청크 스트림의 청크당 사용자 수
+    private static final int CHUNK_SIZE = 10;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter r2dbcConverter;
+
+    /**
+     * 요청량만큼만 읽어오는 사용자 스트림
+     */
+    public Flux<User> streamUsers() {
+        return databaseClient.sql("SELECT id, name, email, created_at FROM users ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> r2dbcConverter.read(User.class, row, metadata))
+                .all()
+                .doOnSubscribe(subscription -> log.info("사용자 데이터 스트리밍 시작 (request-n)"))
+                .doOnComplete(() -> log.info("사용자 데이터 스트리밍 완료 (request-n)"));
+    }
+
+    /**
+     * 사용자 데이터를 청크 단위로 스트리밍 (청크 1개 요청 시 사용자 10명을 읽음)
+     */
+    public Flux<List<User>> streamUsersInChunks() {
+        return streamUsers().buffer(CHUNK_SIZE);
+    }
+
+    /**
+     * 1초마다 현재 시간 전송, 소비가 느리면 밀린 시간 값은 버림
+     */
+    public Flux<String> streamTime() {
+        return Flux.interval(Duration.ofSeconds(1))
+                .onBackpressureDrop(tick -> log.debug("느린 구독자: 시간 데이터 {} 버림", tick))
+                .map(tick -> LocalDateTime.now().toString());
+    }
+}
@@ -0,0 +1,260 @@
+package com.webflux.sample.snapshot;
+
+import com.webflux.sample.entity.User;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * users 테이블의 컬럼형(columnar) 저장 구조
+ * - id, created_at: 기본형 long[] (created_at은 UTC 기준 epoch millis, 밀리초 미만은 버림)
+ * - name, email: UTF-8 바이트를 off-heap direct ByteBuffer 아레나에 이어 붙여 저장
+ *
+ * 행은 id 오름차순으로 유지하고 삭제는 tombstone으로 표시
+ * 스레드 안전하지 않으므로 UserSnapshot이 락으로 보호
+ */
+class UserColumns {
+
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NULL_LENGTH = -1;
+
+    private long[] ids;
+    private long[] createdAt;
+    private int[] nameOffsets;
+    private int[] nameLengths;
+    private int[] emailOffsets;
+    private int[] emailLengths;
+    private boolean[] deleted;
+    private int size;
+    private int deletedCount;
+
+    private ByteBuffer arena;
+    private int arenaUsed;
+    // 수정/삭제로 더 이상 참조되지 않는 아레나 바이트 수
+    private int arenaGarbage;
+
+    UserColumns(int initialRows, int initialArenaBytes) {
+        int rows = Math.max(initialRows, 16);
+        ids = new long[rows];
+        createdAt = new long[rows];
+        nameOffsets = new int[rows];
+        nameLengths = new int[rows];
+        emailOffsets = new int[rows];
+        emailLengths = new int[rows];
+        deleted = new boolean[rows];
+        arena = ByteBuffer.allocateDirect(Math.max(initialArenaBytes, 1024));
+    }
+
+    /**
+     * 삭제되지 않은 행 수
+     */
+    int count() {
+        return size - deletedCount;
+    }
+
+    boolean isDeleted(int row) {
+        return deleted[row];
+    }
+
+    void upsert(long id, String name, String email, LocalDateTime created) {
+        int row = size > 0 && id > ids[size - 1] ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+
+        if (row >= 0) {
+            if (deleted[row]) {
+                deleted[row] = false;
+                deletedCount--;
+            } else {
+                releaseStrings(row);
+            }
+        } else {
+            row = -row - 1;
+            insertRow(row);
+            ids[row] = id;
+        }
+
+        createdAt[row] = toMillis(created);
+        byte[] nameBytes = bytes(name);
+        byte[] emailBytes = bytes(email);
+        ensureArenaCapacity(Math.max(length(nameBytes), 0) + Math.max(length(emailBytes), 0));
+        nameLengths[row] = length(nameBytes);
+        nameOffsets[row] = append(nameBytes);
+        emailLengths[row] = length(emailBytes);
+        emailOffsets[row] = append(emailBytes);
+    }
+
+    boolean remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || deleted[row]) {
+            return false;
+        }
+        deleted[row] = true;
+        deletedCount++;
+        releaseStrings(row);
+        return true;
+    }
+
+    /**
+     * 모든 행 삭제 (deleteAll), 배열과 아레나 용량은 그대로 재사용
+     */
+    void clear() {
+        size = 0;
+        deletedCount = 0;
+        arenaUsed = 0;
+        arenaGarbage = 0;
+    }
+
+    /**
+     * 행이 참조하던 문자열을 garbage로 처리 (압축 시 복사 대상에서 제외)
+     */
+    private void releaseStrings(int row) {
+        arenaGarbage += Math.max(nameLengths[row], 0) + Math.max(emailLengths[row], 0);
+        nameLengths[row] = NULL_LENGTH;
+        emailLengths[row] = NULL_LENGTH;
+    }
+
+    /**
+     * id가 afterId보다 큰 첫 번째 살아있는 행 번호, 없으면 -1
+     * 행 번호는 id 순서를 벗어난 삽입으로 밀릴 수 있으므로, 스캔은 행 번호 대신 마지막 id를 기준으로 이어감
+     */
+    int nextRowAfter(long afterId) {
+        int row = Arrays.binarySearch(ids, 0, size, afterId);
+        row = row >= 0 ? row + 1 : -row - 1;
+        while (row < size && deleted[row]) {
+            row++;
+        }
+        return row < size ? row : -1;
+    }
+
+    /**
+     * created_at이 [from, to] 범위인 사용자 조회 (양 끝 포함), 조건에 맞는 행만 객체로 변환
+     */
+    List<User> findCreatedBetween(long fromMillis, long toMillis) {
+        List<User> users = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            long value = createdAt[row];
+            if (!deleted[row] && value != NULL_TIMESTAMP && value >= fromMillis && value <= toMillis) {
+                users.add(toUser(row));
+            }
+        }
+        return users;
+    }
+
+    User toUser(int row) {
+        return User.builder()
+                .id(ids[row])
+                .name(string(nameOffsets[row], nameLengths[row]))
+                .email(string(emailOffsets[row], emailLengths[row]))
+                .createdAt(createdAt[row] == NULL_TIMESTAMP
+                        ? null
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt[row]), ZoneOffset.UTC))
+                .build();
+    }
+
+    /**
+     * 컬럼 배열과 아레나가 차지하는 메모리 (바이트)
+     */
+    long footprintBytes() {
+        return (long) ids.length * (Long.BYTES * 2 + Integer.BYTES * 4 + 1) + arena.capacity();
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NULL_TIMESTAMP : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private void insertRow(int row) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            nameOffsets = Arrays.copyOf(nameOffsets, capacity);
+            nameLengths = Arrays.copyOf(nameLengths, capacity);
+            emailOffsets = Arrays.copyOf(emailOffsets, capacity);
+            emailLengths = Arrays.copyOf(emailLengths, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+        }
+        if (row < size) {
+            // id 순서를 벗어난 삽입 (드묾): 뒤쪽 행을 한 칸씩 이동
+            int moved = size - row;
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(createdAt, row, createdAt, row + 1, moved);
+            System.arraycopy(nameOffsets, row, nameOffsets, row + 1, moved);
+            System.arraycopy(nameLengths, row, nameLengths, row + 1, moved);
+            System.arraycopy(emailOffsets, row, emailOffsets, row + 1, moved);
+            System.arraycopy(emailLengths, row, emailLengths, row + 1, moved);
+            System.arraycopy(deleted, row, deleted, row + 1, moved);
+        }
+        // 이동 전 행의 값이 남아 있으므로 문자열 참조를 비워 압축 시 복사되지 않도록 함
+        deleted[row] = false;
+        nameLengths[row] = NULL_LENGTH;
+        emailLengths[row] = NULL_LENGTH;
+        size++;
+    }
+
+    private void ensureArenaCapacity(int additionalBytes) {
+        if (arenaUsed + additionalBytes <= arena.capacity()) {
+            return;
+        }
+        // 절반 이상이 garbage이면 크기를 늘리기 전에 살아있는 문자열만 모아서 압축
+        boolean compact = arenaGarbage > arenaUsed / 2;
+        int liveBytes = compact ? arenaUsed - arenaGarbage : arenaUsed;
+        int capacity = arena.capacity();
+        while (liveBytes + additionalBytes > capacity) {
+            capacity *= 2;
+        }
+
+        ByteBuffer resized = ByteBuffer.allocateDirect(capacity);
+        if (compact) {
+            int used = 0;
+            for (int row = 0; row < size; row++) {
+                nameOffsets[row] = copy(resized, used, nameOffsets[row], nameLengths[row]);
+                used += Math.max(nameLengths[row], 0);
+                emailOffsets[row] = copy(resized, used, emailOffsets[row], emailLengths[row]);
+                used += Math.max(emailLengths[row], 0);
+            }
+            arenaUsed = used;
+            arenaGarbage = 0;
+        } else {
+            resized.put(0, arena, 0, arenaUsed);
+        }
+        arena = resized;
+    }
+
+    private int copy(ByteBuffer target, int targetOffset, int sourceOffset, int length) {
+        if (length > 0) {
+            target.put(targetOffset, arena, sourceOffset, length);
+        }
+        return targetOffset;
+    }
+
+    private int append(byte[] bytes) {
+        int offset = arenaUsed;
+        if (bytes != null) {
+            arena.put(offset, bytes);
+            arenaUsed += bytes.length;
+        }
+        return offset;
+    }
+
+    private String string(int offset, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        arena.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? NULL_LENGTH : bytes.length;
+    }
+}
@@ -0,0 +1,239 @@
+package com.webflux.sample.snapshot;
+
+import com.webflux.sample.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 분석성 전체 스캔을 위한 users 테이블의 읽기 전용 컬럼형 스냅샷 (app.user-snapshot.enabled=true 일 때 사용)
+ *
+ * 애플리케이션 시작 시 전체를 한 번 적재하고, 이후에는 저장/삭제 시점에 증분 반영
+ * - 저장: UserSnapshotCallback (UserRepository의 save, saveAll)
+ * - 삭제: UserRepositoryCustomImpl (UserRepository의 모든 delete 메서드)
+ * DatabaseClient 등으로 직접 실행한 SQL은 반영되지 않으므로, 그 뒤에는 refresh()를 호출해야 함
+ *
+ * 전체 스캔, 개수, created_at 범위 조회를 R2DBC 없이 메모리에서 처리
+ * 증분 반영에 실패하면 저장/삭제는 그대로 성공시키고, 스냅샷을 버린 뒤 다시 적재 (적재가 끝날 때까지는 DB에서 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(UserSnapshotProperties.class)
+public class UserSnapshot {
+
+    private static final int INITIAL_ROWS = 1024;
+    private static final int INITIAL_ARENA_BYTES = 64 * 1024;
+
+    private final DatabaseClient databaseClient;
+    private final UserSnapshotProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 적재 완료 전, 또는 증분 반영 실패 후 재적재가 끝나기 전에는 null
+    private UserColumns columns;
+    // 적재 중 들어온 쓰기 작업, 적재가 끝나면 새 스냅샷에 다시 적용
+    private List<Consumer<UserColumns>> pendingWrites;
+    // 진행 중인 적재, 동시에 호출된 refresh()는 같은 적재 결과를 공유
+    private Mono<Integer> refreshInFlight;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        refresh().subscribe(
+                count -> log.info("사용자 스냅샷 적재 완료: {} 명", count),
+                error -> log.error("사용자 스냅샷 적재 중 오류 발생: {}", error.getMessage()));
+    }
+
+    /**
+     * users 테이블 전체를 다시 읽어 스냅샷 교체
+     * 이미 적재 중이면 새로 읽지 않고 진행 중인 적재 결과를 반환
+     */
+    public synchronized Mono<Integer> refresh() {
+        if (refreshInFlight == null) {
+            refreshInFlight = reload()
+                    // 결과를 전달하기 전에 비워서, 완료 이후의 refresh()는 항상 새로 적재
+                    .doOnTerminate(this::clearRefreshInFlight)
+                    .cache();
+        }
+        return refreshInFlight;
+    }
+
+    private synchronized void clearRefreshInFlight() {
+        refreshInFlight = null;
+    }
+
+    private Mono<Integer> reload() {
+        return Mono.defer(() -> {
+            List<Consumer<UserColumns>> pending = new ArrayList<>();
+            withWriteLock(() -> pendingWrites = pending);
+            UserColumns loaded = new UserColumns(INITIAL_ROWS, INITIAL_ARENA_BYTES);
+
+            return databaseClient.sql("SELECT id, name, email, created_at FROM users ORDER BY id")
+                    .map((row, metadata) -> {
+                        loaded.upsert(row.get("id", Long.class), row.get("name", String.class),
+                                row.get("email", String.class), row.get("created_at", LocalDateTime.class));
+                        return 1;
+                    })
+                    .all()
+                    .then(Mono.fromSupplier(() -> {
+                        withWriteLock(() -> {
+                            pending.forEach(write -> write.accept(loaded));
+                            pendingWrites = null;
+                            columns = loaded;
+                        });
+                        log.info("사용자 스냅샷 메모리 사용량: {} bytes", loaded.footprintBytes());
+                        return loaded.count();
+                    }))
+                    .doOnError(error -> withWriteLock(() -> pendingWrites = null));
+        });
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return columns != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 사용자 반영 (created_at은 UserSnapshotCallback이 저장 전에 채움)
+     */
+    public void onSaved(User user) {
+        if (properties.isEnabled() && user.getId() != null) {
+            applyWrite(snapshot -> snapshot.upsert(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt()));
+        }
+    }
+
+    public void onDeleted(Long id) {
+        if (properties.isEnabled() && id != null) {
+            applyWrite(snapshot -> snapshot.remove(id));
+        }
+    }
+
+    public void onDeleted(Collection<Long> ids) {
+        if (properties.isEnabled() && !ids.isEmpty()) {
+            applyWrite(snapshot -> ids.forEach(snapshot::remove));
+        }
+    }
+
+    public void onDeletedAll() {
+        if (properties.isEnabled()) {
+            applyWrite(UserColumns::clear);
+        }
+    }
+
+    /**
+     * 사용자 수, 스냅샷이 적재되어 있지 않으면 empty (호출자는 DB로 조회)
+     */
+    public Optional<Long> count() {
+        return tryRead(snapshot -> (long) snapshot.count());
+    }
+
+    /**
+     * created_at이 [from, to] 범위인 사용자 조회 (양 끝 포함), 스냅샷이 적재되어 있지 않으면 empty
+     */
+    public Optional<List<User>> findCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return tryRead(snapshot -> snapshot.findCreatedBetween(UserColumns.toMillis(from), UserColumns.toMillis(to)));
+    }
+
+    /**
+     * 전체 사용자 스캔 (id 오름차순), 구독자가 요청할 때마다 한 행씩 객체로 변환
+     * 마지막으로 내보낸 id 다음부터 이어서 읽으므로 스캔 도중 삽입/삭제가 있어도 같은 사용자를 건너뛰거나 두 번 내보내지 않음
+     * 스캔 도중의 쓰기는 아직 지나가지 않은 id에 대해서만 반영됨
+     */
+    public Flux<User> findAll() {
+        return Flux.defer(() -> {
+            UserColumns started = read(current -> current);
+            return Flux.<User, Long>generate(() -> Long.MIN_VALUE, (lastId, sink) -> {
+                lock.readLock().lock();
+                try {
+                    // 스캔 도중 재적재로 스냅샷이 교체되면 새 스냅샷에서 이어서 읽음
+                    UserColumns snapshot = columns != null ? columns : started;
+                    int row = snapshot.nextRowAfter(lastId);
+                    if (row >= 0) {
+                        User user = snapshot.toUser(row);
+                        sink.next(user);
+                        return user.getId();
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                sink.complete();
+                return lastId;
+            });
+        });
+    }
+
+    void applyWrite(Consumer<UserColumns> write) {
+        lock.writeLock().lock();
+        try {
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+            if (columns != null) {
+                write.accept(columns);
+            }
+            return;
+        } catch (RuntimeException e) {
+            // 스냅샷 오류로 이미 커밋된 저장/삭제를 실패시키지 않음
+            // 일부만 반영되었을 수 있는 스냅샷은 버려서, 재적재가 끝날 때까지 조회가 DB로 가도록 함
+            columns = null;
+            log.error("사용자 스냅샷 증분 반영 실패, 다시 적재합니다: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refresh().subscribe(
+                count -> log.info("사용자 스냅샷 재적재 완료: {} 명", count),
+                error -> log.error("사용자 스냅샷 재적재 중 오류 발생: {}", error.getMessage()));
+    }
+
+    private <T> T read(Function<UserColumns, T> reader) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                throw new IllegalStateException("사용자 스냅샷이 아직 적재되지 않았습니다.");
+            }
+            return reader.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> Optional<T> tryRead(Function<UserColumns, T> reader) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(columns).map(reader);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
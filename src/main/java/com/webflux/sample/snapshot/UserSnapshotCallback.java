@@ -0,0 +1,45 @@
+package com.webflux.sample.snapshot;
+
+import com.webflux.sample.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * UserRepository를 통한 저장(save, saveAll)을 사용자 스냅샷에 증분 반영
+ * R2DBC에는 삭제 콜백이 없으므로 삭제는 UserRepositoryCustomImpl에서 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCallback implements BeforeConvertCallback<User>, AfterSaveCallback<User> {
+
+    private final UserSnapshot userSnapshot;
+    private final UserSnapshotProperties properties;
+
+    /**
+     * 스냅샷 사용 시에만 created_at을 저장 전에 채워서 저장 후 DB에서 다시 읽지 않아도 되도록 함
+     * 스냅샷을 사용하지 않으면 기존처럼 DB 기본값(CURRENT_TIMESTAMP)을 사용
+     * TIMESTAMP 정밀도(마이크로초)에 맞춰 잘라서 저장된 값과 엔티티 값을 일치시킴
+     */
+    @Override
+    public Publisher<User> onBeforeConvert(User entity, SqlIdentifier table) {
+        if (properties.isEnabled() && entity.getCreatedAt() == null) {
+            entity.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        }
+        return Mono.just(entity);
+    }
+
+    @Override
+    public Publisher<User> onAfterSave(User entity, OutboundRow outboundRow, SqlIdentifier table) {
+        userSnapshot.onSaved(entity);
+        return Mono.just(entity);
+    }
+}
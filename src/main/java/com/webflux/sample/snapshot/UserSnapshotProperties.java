@@ -0,0 +1,18 @@
+package com.webflux.sample.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 사용자 컬럼형 스냅샷 설정 (app.user-snapshot.*)
+ * 빈 등록 조건이 아니라 런타임 값으로 확인하므로 AOT 빌드 후에도 실행 시점에 켜고 끌 수 있음
+ */
+@Data
+@ConfigurationProperties(prefix = "app.user-snapshot")
+public class UserSnapshotProperties {
+
+    /**
+     * 스냅샷 사용 여부
+     */
+    private boolean enabled = false;
+}
@@ -0,0 +1,152 @@
+package com.webflux.sample.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 클라이언트 요청량(credit) 기반 WebSocket 스트리밍
+ *
+ * 클라이언트가 양의 정수를 텍스트 메시지로 보내면 그만큼 데이터를 추가로 요청하고,
+ * 서버는 각 항목을 CBOR로 인코딩한 바이너리 메시지로 전송
+ * 요청량이 R2DBC 쿼리까지 전달되므로 느린 클라이언트가 DB 조회 속도 자체를 조절
+ *
+ * 첫 요청량이 도착해야 source를 구독하므로(= R2DBC 커넥션 획득) 요청하지 않는 클라이언트는 커넥션을 점유하지 않으며,
+ * 일정 시간 동안 데이터를 받아가지 않는 클라이언트는 스트림을 종료해 커넥션을 반환
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DemandDrivenWebSocketHandler implements WebSocketHandler {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Supplier<Flux<?>> source;
+    private final ObjectMapper cborMapper;
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        log.info("WebSocket 스트리밍 시작: {}", session.getHandshakeInfo().getUri().getPath());
+
+        Flux<Long> credits = session.receive()
+                .map(WebSocketMessage::getPayloadAsText)
+                .mapNotNull(DemandDrivenWebSocketHandler::parseCredit);
+
+        Flux<Object> stream = withDemand(Flux.<Object>from(source.get()), credits)
+                .timeout(IDLE_TIMEOUT, Flux.defer(() -> {
+                    log.info("WebSocket 스트리밍 종료: {} 동안 전송된 데이터 없음", IDLE_TIMEOUT);
+                    return Flux.empty();
+                }));
+
+        return session.send(stream
+                .map(value -> session.binaryMessage(factory -> factory.wrap(encode(value)))));
+    }
+
+    /**
+     * credits로 받은 요청량만큼만 source에 요청
+     * 첫 요청량이 도착할 때 source를 구독하므로 그 전에는 source를 구독조차 하지 않음
+     */
+    static <T> Flux<T> withDemand(Flux<T> source, Flux<Long> credits) {
+        return Flux.create(sink -> {
+            CreditSubscriber<T> upstream = new CreditSubscriber<>(sink);
+
+            // credits는 순차적으로 전달되므로 첫 요청량에서 한 번만 구독
+            AtomicBoolean subscribed = new AtomicBoolean();
+            Disposable creditSubscription = credits.subscribe(credit -> {
+                if (subscribed.compareAndSet(false, true)) {
+                    source.subscribe(upstream);
+                }
+                upstream.addCredit(credit);
+            }, sink::error);
+
+            sink.onDispose(() -> {
+                upstream.dispose();
+                creditSubscription.dispose();
+            });
+        });
+    }
+
+    /**
+     * 클라이언트 요청량을 source에 전달하는 구독자
+     * onSubscribe가 비동기로 도착하는 source도 있으므로, 그 전에 받은 요청량은 모아 두었다가 구독 시점에 요청
+     */
+    private static final class CreditSubscriber<T> extends BaseSubscriber<T> {
+
+        private final FluxSink<T> sink;
+        private final AtomicLong pendingCredit = new AtomicLong();
+        private volatile boolean ready;
+
+        private CreditSubscriber(FluxSink<T> sink) {
+            this.sink = sink;
+        }
+
+        void addCredit(long credit) {
+            pendingCredit.accumulateAndGet(credit, Operators::addCap);
+            drain();
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // 기본 동작(unbounded 요청)을 막고 모아 둔 요청량만 전달
+            ready = true;
+            drain();
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            sink.next(value);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            sink.complete();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            sink.error(throwable);
+        }
+
+        private void drain() {
+            if (ready) {
+                long credit = pendingCredit.getAndSet(0);
+                if (credit > 0) {
+                    request(credit);
+                }
+            }
+        }
+    }
+
+    private static Long parseCredit(String payload) {
+        try {
+            long credit = Long.parseLong(payload.trim());
+            return credit > 0 ? credit : null;
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 요청량 메시지 무시: {}", payload);
+            return null;
+        }
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return cborMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("CBOR 인코딩 실패: " + value, e);
+        }
+    }
+}
@@ -1,9 +1,8 @@
--- 기존 테이블이 있다면 삭제
-DROP TABLE IF EXISTS users;
-
 -- 사용자 테이블 생성
-CREATE TABLE users (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+-- H2(메모리/파일)와 PostgreSQL에서 모두 동작하도록 표준 SQL 문법만 사용
+-- 파일/PostgreSQL 백엔드는 재시작 후에도 데이터를 유지해야 하므로 DROP 대신 IF NOT EXISTS 사용
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
@@ -0,0 +1,15 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.webflux.sample.controller=WARN")
+class DefaultServerBenchmark extends ServerBenchmarkSupport {
+
+    @Override
+    String configurationName() {
+        return "default";
+    }
+}
@@ -0,0 +1,16 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        properties = "H2_FILE_PATH=${benchmark.h2file.path:./build/h2-benchmark/webflux_sample}")
+@ActiveProfiles("h2file")
+class H2FileStorageBenchmark extends StorageBenchmarkSupport {
+
+    @Override
+    String backendName() {
+        return "h2-file";
+    }
+}
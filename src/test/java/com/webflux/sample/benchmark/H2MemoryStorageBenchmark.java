@@ -0,0 +1,13 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = WebfluxSampleApplication.class)
+class H2MemoryStorageBenchmark extends StorageBenchmarkSupport {
+
+    @Override
+    String backendName() {
+        return "h2-mem";
+    }
+}
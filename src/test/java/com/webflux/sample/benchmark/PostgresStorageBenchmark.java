@@ -0,0 +1,28 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.support.EmbeddedPostgresSupport;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * POSTGRES_HOST 환경 변수가 있으면 해당 서버, 없으면 내장 PostgreSQL로 측정
+ */
+@SpringBootTest(classes = WebfluxSampleApplication.class)
+@ActiveProfiles("postgres")
+class PostgresStorageBenchmark extends StorageBenchmarkSupport {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        if (System.getenv("POSTGRES_HOST") == null) {
+            EmbeddedPostgresSupport.register(registry);
+        }
+    }
+
+    @Override
+    String backendName() {
+        return System.getenv("POSTGRES_HOST") == null ? "postgres (embedded)" : "postgres";
+    }
+}
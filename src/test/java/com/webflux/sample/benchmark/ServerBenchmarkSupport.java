@@ -0,0 +1,143 @@
+package com.webflux.sample.benchmark;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.util.internal.PlatformDependent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reactor Netty 서버 설정별 벤치마크 공통 로직
+ * - 장시간 SSE 연결을 여러 개 열어 두고 1GB당 수용 가능한 연결 수 추정
+ * - 짧은 GET 요청의 초당 처리량 측정
+ * 클라이언트와 서버가 같은 JVM에서 실행되므로 절대값보다는 설정 간 상대 비교용
+ */
+@Slf4j
+@Tag("benchmark")
+abstract class ServerBenchmarkSupport {
+
+    private static final int SSE_CONNECTIONS = 1_000;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final int CONCURRENCY = 64;
+    private static final double BYTES_PER_GB = 1024.0 * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    /**
+     * 결과 출력에 사용할 서버 설정 이름
+     */
+    abstract String configurationName();
+
+    /**
+     * 클라이언트 프로토콜 등 설정별 클라이언트 조정
+     */
+    HttpClient customize(HttpClient httpClient) {
+        return httpClient;
+    }
+
+    @Test
+    void benchmarkServer() throws InterruptedException {
+        double connectionsPerGb = measureConnectionsPerGb();
+        double requestsPerSecond = measureRequestsPerSecond();
+
+        // epoll 라이브러리가 클래스패스에 있으므로 기본 설정에서도 Linux에서는 epoll 사용
+        log.info("[{}] transport: {}", configurationName(), Epoll.isAvailable() ? "epoll" : "nio");
+        log.info("[{}] SSE connections: {} connections/GB ({} connections)",
+                configurationName(), String.format("%.0f", connectionsPerGb), SSE_CONNECTIONS);
+        log.info("[{}] GET /demo/mono: {} req/s ({} requests, concurrency {})",
+                configurationName(), String.format("%.0f", requestsPerSecond), REQUESTS, CONCURRENCY);
+    }
+
+    private double measureConnectionsPerGb() throws InterruptedException {
+        // 연결마다 새 TCP 연결을 사용하도록 풀링하지 않는 클라이언트 사용
+        WebClient client = webClient(ConnectionProvider.newConnection());
+        CountDownLatch firstEvents = new CountDownLatch(SSE_CONNECTIONS);
+        List<Disposable> streams = new ArrayList<>(SSE_CONNECTIONS);
+
+        long before = usedMemory();
+        for (int i = 0; i < SSE_CONNECTIONS; i++) {
+            streams.add(client.get()
+                    .uri("/api/stream/time")
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .retrieve()
+                    .bodyToFlux(String.class)
+                    .take(1)
+                    .concatWith(Flux.never())
+                    .subscribe(event -> firstEvents.countDown()));
+        }
+
+        try {
+            assertThat(firstEvents.await(60, TimeUnit.SECONDS)).isTrue();
+            long used = Math.max(usedMemory() - before, 1);
+            return SSE_CONNECTIONS / (used / BYTES_PER_GB);
+        } finally {
+            streams.forEach(Disposable::dispose);
+        }
+    }
+
+    private double measureRequestsPerSecond() {
+        ConnectionProvider provider = ConnectionProvider.builder("server-benchmark")
+                .maxConnections(CONCURRENCY)
+                .build();
+        try {
+            WebClient client = webClient(provider);
+            runRequests(client, WARMUP_REQUESTS);
+
+            long start = System.nanoTime();
+            runRequests(client, REQUESTS);
+            return REQUESTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    private void runRequests(WebClient client, int requests) {
+        Flux.range(0, requests)
+                .flatMap(i -> client.get()
+                        .uri("/demo/mono")
+                        .retrieve()
+                        .bodyToMono(String.class), CONCURRENCY)
+                .blockLast(Duration.ofMinutes(2));
+    }
+
+    private WebClient webClient(ConnectionProvider provider) {
+        HttpClient httpClient = customize(HttpClient.create(provider));
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * 힙 + JDK direct 버퍼 + Netty가 직접 관리하는 direct 메모리 사용량
+     */
+    private static long usedMemory() {
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        return heap + direct + Math.max(PlatformDependent.usedDirectMemory(), 0);
+    }
+}
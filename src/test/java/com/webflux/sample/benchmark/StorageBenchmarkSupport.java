@@ -0,0 +1,124 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 백엔드별 UserRepository 벤치마크 공통 로직
+ * 백엔드(프로파일)마다 하위 클래스를 두고 ./gradlew storageBenchmark 로 실행
+ * 모든 백엔드가 같은 데이터 집합으로 측정되도록 시딩을 끄고 측정 전에 users 테이블을 비움
+ */
+@Slf4j
+@Tag("benchmark")
+@TestPropertySource(properties = "app.data-loader.enabled=false")
+abstract class StorageBenchmarkSupport {
+
+    private static final int WARMUP_OPS = 500;
+    private static final int WRITE_OPS = 2_000;
+    private static final int READ_OPS = 5_000;
+    private static final int STREAM_ROUNDS = 20;
+    private static final int CONCURRENCY = 16;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * 결과 출력에 사용할 백엔드 이름
+     */
+    abstract String backendName();
+
+    @BeforeEach
+    void clearUsers() {
+        userRepository.deleteAll().block();
+    }
+
+    @Test
+    void benchmarkUserRepository() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+
+        // 워밍업: JIT, 커넥션 풀, 캐시를 데운 뒤 측정
+        measure(WARMUP_OPS, i -> userRepository.save(newUser(runId + "-w", i)));
+
+        Result writes = measure(WRITE_OPS, i -> userRepository.save(newUser(runId, i)));
+
+        List<Long> ids = userRepository.findAll().map(User::getId).collectList().block();
+        assertThat(ids).isNotEmpty();
+        Result reads = measure(READ_OPS,
+                i -> userRepository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size()))));
+
+        long rows = userRepository.count().block();
+        Result streams = measureSequential(STREAM_ROUNDS, () -> userRepository.findAll().count());
+
+        log.info("[{}] write : {}", backendName(), writes.format());
+        log.info("[{}] read  : {}", backendName(), reads.format());
+        log.info("[{}] stream: {} ({} rows/stream, {} rows/s)", backendName(), streams.format(),
+                rows, String.format("%.0f", streams.opsPerSecond() * rows));
+    }
+
+    private Result measure(int ops, IntFunction<Mono<?>> operation) {
+        long[] latencies = new long[ops];
+        long start = System.nanoTime();
+        Flux.range(0, ops)
+                .flatMap(i -> Mono.defer(() -> {
+                    long opStart = System.nanoTime();
+                    return operation.apply(i)
+                            .doOnTerminate(() -> latencies[i] = System.nanoTime() - opStart);
+                }), CONCURRENCY)
+                .blockLast();
+        return new Result(ops, System.nanoTime() - start, latencies);
+    }
+
+    private Result measureSequential(int rounds, Supplier<Mono<?>> operation) {
+        long[] latencies = new long[rounds];
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            long opStart = System.nanoTime();
+            operation.get().block();
+            latencies[i] = System.nanoTime() - opStart;
+        }
+        return new Result(rounds, System.nanoTime() - start, latencies);
+    }
+
+    private static User newUser(String runId, int i) {
+        return User.builder()
+                .name("bench_" + i)
+                .email("bench-" + runId + "-" + i + "@example.com")
+                .build();
+    }
+
+    private record Result(int ops, long elapsedNanos, long[] latencies) {
+
+        double opsPerSecond() {
+            return ops / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String format() {
+            return String.format("%d ops, %.0f ops/s, p50 %.2fms, p99 %.2fms",
+                    ops, opsPerSecond(), percentileMillis(50), percentileMillis(99));
+        }
+    }
+}
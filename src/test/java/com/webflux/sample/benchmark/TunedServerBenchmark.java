@@ -0,0 +1,24 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.webflux.sample.controller=WARN")
+@ActiveProfiles("server-tuning")
+class TunedServerBenchmark extends ServerBenchmarkSupport {
+
+    @Override
+    String configurationName() {
+        return "server-tuning";
+    }
+
+    @Override
+    HttpClient customize(HttpClient httpClient) {
+        return httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+}
@@ -0,0 +1,80 @@
+package com.webflux.sample.benchmark;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.snapshot.UserSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컬럼형 사용자 스냅샷과 R2DBC findAll()의 스캔 처리량 비교
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        properties = {"app.user-snapshot.enabled=true", "app.data-loader.enabled=false"})
+class UserSnapshotBenchmark {
+
+    private static final int USERS = 50_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSnapshot userSnapshot;
+
+    @Test
+    void compareScanThroughput() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        Flux.range(0, USERS)
+                .map(i -> User.builder()
+                        .name("snapshot_" + i)
+                        .email("snapshot-" + runId + "-" + i + "@example.com")
+                        .build())
+                .buffer(1_000)
+                .concatMap(userRepository::saveAll)
+                .blockLast();
+        userSnapshot.refresh().block();
+
+        long rows = userRepository.count().block();
+        assertThat(userSnapshot.count()).contains(rows);
+
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        // 양쪽 모두 조건에 맞는 모든 행을 User 객체로 만들어 반환하는 조회끼리 비교
+        report("R2DBC findAll()", rows, () -> userRepository.findAll().count());
+        report("snapshot findAll()", rows, () -> userSnapshot.findAll().count());
+        report("R2DBC findByCreatedAtBetween()", rows, () -> userRepository.findByCreatedAtBetween(from, to).count());
+        report("snapshot findCreatedBetween()", rows,
+                () -> Mono.fromSupplier(() -> userSnapshot.findCreatedBetween(from, to).orElseThrow().size()));
+    }
+
+    private void report(String name, long rows, Supplier<Mono<?>> scan) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            scan.get().block();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            scan.get().block();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("[{}] {} ms/scan, {} rows/s", name,
+                String.format("%.2f", seconds * 1000 / ROUNDS),
+                String.format("%.0f", rows * ROUNDS / seconds));
+    }
+}
@@ -0,0 +1,105 @@
+package com.webflux.sample.controller;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.service.UserStreamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * /rsocket 경로의 request-stream 라우팅, CBOR 디코딩, request-n 전달 검증
+ */
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.data-loader.enabled=false")
+class UserStreamRSocketControllerTest {
+
+    private static final int USERS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private UserStreamService userStreamService;
+
+    private final AtomicInteger rowsRead = new AtomicInteger();
+
+    private RSocketRequester requester;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository.deleteAll()
+                .thenMany(userRepository.saveAll(Flux.range(0, USERS)
+                        .map(i -> User.builder()
+                                .name("rsocket_" + i)
+                                .email("rsocket" + i + "@example.com")
+                                .build())))
+                .blockLast();
+
+        // R2DBC 쿼리에서 실제로 읽혀 나온 행 수 기록
+        doAnswer(invocation -> ((Flux<User>) invocation.callRealMethod())
+                .doOnNext(user -> rowsRead.incrementAndGet()))
+                .when(userStreamService).streamUsers();
+
+        requester = requesterBuilder
+                .dataMimeType(MimeTypeUtils.parseMimeType("application/cbor"))
+                .websocket(URI.create("ws://localhost:" + port + "/rsocket"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        requester.dispose();
+    }
+
+    @Test
+    void requestNLimitsRowsReadFromDatabase() {
+        StepVerifier.create(requester.route("stream.users")
+                        .retrieveFlux(User.class)
+                        .limitRate(5)
+                        .take(10))
+                .expectNextMatches(user -> user.getId() != null
+                        && user.getName().startsWith("rsocket_")
+                        && user.getCreatedAt() != null)
+                .expectNextCount(9)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        // 클라이언트 요청량(5개씩 보충)을 넘어서 DB에서 읽지 않음
+        assertThat(rowsRead.get()).isGreaterThanOrEqualTo(10).isLessThan(USERS / 4);
+    }
+
+    @Test
+    void streamsUsersInChunks() {
+        StepVerifier.create(requester.route("stream.users.chunked")
+                        .retrieveFlux(User[].class)
+                        .take(2))
+                .expectNextMatches(chunk -> chunk.length == 10)
+                .expectNextMatches(chunk -> chunk.length == 10)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,45 @@
+package com.webflux.sample.repository;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.entity.User;
+import com.webflux.sample.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.test.StepVerifier;
+
+/**
+ * postgres 프로파일과 schema.sql 호환성 검증
+ * 내장 PostgreSQL에 프로파일의 URL/계정 설정과 r2dbc-postgresql 드라이버로 접속
+ */
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        properties = "app.data-loader.enabled=false")
+@ActiveProfiles("postgres")
+class PostgresProfileSchemaTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.register(registry);
+    }
+
+    @Test
+    void saveAndFindByEmail() {
+        User user = User.builder()
+                .name("pg_user")
+                .email("pg-profile@example.com")
+                .build();
+
+        StepVerifier.create(userRepository.save(user)
+                        .then(userRepository.findByEmail("pg-profile@example.com")))
+                .expectNextMatches(found -> found.getId() != null
+                        && "pg_user".equals(found.getName())
+                        && found.getCreatedAt() != null)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,81 @@
+package com.webflux.sample.service;
+
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.snapshot.UserSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스냅샷 적재 여부에 따라 조회 대상(스냅샷 / R2DBC)을 고르는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSnapshot userSnapshot;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void countFallsBackToRepositoryWhenSnapshotIsNotReady() {
+        when(userSnapshot.count()).thenReturn(Optional.empty());
+        when(userRepository.count()).thenReturn(Mono.just(7L));
+
+        StepVerifier.create(userService.countUsers())
+                .expectNext(7L)
+                .verifyComplete();
+    }
+
+    @Test
+    void countUsesSnapshotWhenReady() {
+        when(userSnapshot.count()).thenReturn(Optional.of(3L));
+
+        StepVerifier.create(userService.countUsers())
+                .expectNext(3L)
+                .verifyComplete();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void createdBetweenFallsBackToRepositoryWhenSnapshotIsNotReady() {
+        User user = User.builder().id(1L).name("db").build();
+        when(userSnapshot.findCreatedBetween(FROM, TO)).thenReturn(Optional.empty());
+        when(userRepository.findByCreatedAtBetween(FROM, TO)).thenReturn(Flux.just(user));
+
+        StepVerifier.create(userService.findUsersCreatedBetween(FROM, TO))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void createdBetweenUsesSnapshotWhenReady() {
+        User user = User.builder().id(2L).name("snapshot").build();
+        when(userSnapshot.findCreatedBetween(FROM, TO)).thenReturn(Optional.of(List.of(user)));
+
+        StepVerifier.create(userService.findUsersCreatedBetween(FROM, TO))
+                .expectNext(user)
+                .verifyComplete();
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,131 @@
+package com.webflux.sample.snapshot;
+
+import com.webflux.sample.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserColumnsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void keepsRowsOrderedByIdAndUpdatesInPlace() {
+        UserColumns columns = new UserColumns(0, 0);
+        columns.upsert(3L, "사용자_3", "user3@example.com", BASE);
+        columns.upsert(1L, "사용자_1", "user1@example.com", BASE.plusDays(1));
+        columns.upsert(3L, "변경됨", "changed@example.com", BASE.plusDays(2));
+
+        assertThat(columns.count()).isEqualTo(2);
+        assertThat(columns.toUser(0).getId()).isEqualTo(1L);
+        assertThat(columns.toUser(1)).isEqualTo(User.builder()
+                .id(3L)
+                .name("변경됨")
+                .email("changed@example.com")
+                .createdAt(BASE.plusDays(2))
+                .build());
+    }
+
+    @Test
+    void removeMarksTombstoneAndUpsertRevivesRow() {
+        UserColumns columns = new UserColumns(0, 0);
+        columns.upsert(1L, "a", "a@example.com", BASE);
+        columns.upsert(2L, "b", "b@example.com", BASE);
+
+        assertThat(columns.remove(1L)).isTrue();
+        assertThat(columns.remove(1L)).isFalse();
+        assertThat(columns.count()).isEqualTo(1);
+        assertThat(columns.isDeleted(0)).isTrue();
+
+        columns.upsert(1L, "a2", "a2@example.com", BASE);
+        assertThat(columns.count()).isEqualTo(2);
+        assertThat(columns.toUser(0).getName()).isEqualTo("a2");
+    }
+
+    @Test
+    void findsCreatedAtRangeInclusive() {
+        UserColumns columns = new UserColumns(0, 0);
+        for (int i = 0; i < 10; i++) {
+            columns.upsert(i, "사용자_" + i, "user" + i + "@example.com", BASE.plusHours(i));
+        }
+        columns.upsert(10L, "no_date", "no-date@example.com", null);
+        columns.remove(5L);
+
+        long from = UserColumns.toMillis(BASE.plusHours(2));
+        long to = UserColumns.toMillis(BASE.plusHours(6));
+        assertThat(columns.findCreatedBetween(from, to))
+                .extracting(User::getId)
+                .containsExactly(2L, 3L, 4L, 6L);
+        assertThat(columns.toUser(10).getCreatedAt()).isNull();
+    }
+
+    @Test
+    void growsAndCompactsArenaWithoutLosingStrings() {
+        UserColumns columns = new UserColumns(0, 0);
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 100; i++) {
+                columns.upsert(i, "사용자_" + i + "_" + round, "user" + i + "@example.com", BASE);
+            }
+        }
+
+        assertThat(columns.count()).isEqualTo(100);
+        assertThat(columns.toUser(42).getName()).isEqualTo("사용자_42_49");
+        assertThat(columns.toUser(99).getEmail()).isEqualTo("user99@example.com");
+    }
+
+    @Test
+    void outOfOrderInsertThatTriggersCompactionKeepsStrings() {
+        UserColumns columns = new UserColumns(0, 0);
+        String large = "y".repeat(400);
+        columns.upsert(10L, "a_0", "a@example", BASE);
+        columns.upsert(20L, large, "b@example", BASE);
+
+        // 아레나(1024 bytes)의 절반 이상을 garbage로 만든 뒤, 중간 id 삽입으로 압축을 유발
+        for (int i = 1; i <= 36; i++) {
+            columns.upsert(10L, "a_" + (i % 10), "a@example", BASE);
+        }
+        columns.upsert(15L, large, "c@example", BASE);
+
+        assertThat(columns.count()).isEqualTo(3);
+        assertThat(columns.toUser(0).getName()).isEqualTo("a_6");
+        assertThat(columns.toUser(1).getId()).isEqualTo(15L);
+        assertThat(columns.toUser(1).getEmail()).isEqualTo("c@example");
+        assertThat(columns.toUser(2).getId()).isEqualTo(20L);
+        assertThat(columns.toUser(2).getName()).isEqualTo(large);
+        assertThat(columns.toUser(2).getEmail()).isEqualTo("b@example");
+    }
+
+    @Test
+    void nextRowAfterFollowsIdsAcrossOutOfOrderInserts() {
+        UserColumns columns = new UserColumns(0, 0);
+        columns.upsert(10L, "a", "a@example.com", BASE);
+        columns.upsert(20L, "b", "b@example.com", BASE);
+        columns.upsert(30L, "c", "c@example.com", BASE);
+
+        int row = columns.nextRowAfter(Long.MIN_VALUE);
+        assertThat(columns.toUser(row).getId()).isEqualTo(10L);
+
+        // 스캔 도중 앞쪽 id 삽입으로 행 번호가 밀리고, 다음 id가 삭제되어도 id 기준으로 이어감
+        columns.upsert(5L, "early", "early@example.com", BASE);
+        columns.remove(20L);
+        row = columns.nextRowAfter(10L);
+        assertThat(columns.toUser(row).getId()).isEqualTo(30L);
+        assertThat(columns.nextRowAfter(30L)).isEqualTo(-1);
+    }
+
+    @Test
+    void clearRemovesAllRowsAndAcceptsNewOnes() {
+        UserColumns columns = new UserColumns(0, 0);
+        columns.upsert(1L, "a", "a@example.com", BASE);
+        columns.upsert(2L, "b", "b@example.com", BASE);
+
+        columns.clear();
+        assertThat(columns.count()).isZero();
+        assertThat(columns.nextRowAfter(Long.MIN_VALUE)).isEqualTo(-1);
+
+        columns.upsert(3L, "c", "c@example.com", BASE);
+        assertThat(columns.toUser(columns.nextRowAfter(Long.MIN_VALUE)).getName()).isEqualTo("c");
+    }
+}
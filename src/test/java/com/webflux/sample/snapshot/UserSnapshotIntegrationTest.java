@@ -0,0 +1,157 @@
+package com.webflux.sample.snapshot;
+
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 저장/삭제 경로와 재적재가 사용자 스냅샷을 DB와 같은 상태로 유지하는지 검증
+ */
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        properties = {"app.user-snapshot.enabled=true", "app.data-loader.enabled=false"})
+class UserSnapshotIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private UserSnapshot userSnapshot;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll().block(TIMEOUT);
+        userSnapshot.refresh().block(TIMEOUT);
+    }
+
+    @Test
+    void savesAndDeletesDuringRefreshAreReplayedOntoLoadedSnapshot() {
+        List<User> seeded = save("seed_", 2_000).collectList().block(TIMEOUT);
+
+        // 재적재와 저장/삭제를 서로 다른 스레드에서 동시에 실행
+        Mono<Integer> refresh = userSnapshot.refresh().subscribeOn(Schedulers.boundedElastic());
+        Mono<Void> writes = save("during_", 200)
+                .then(userRepository.deleteAll(seeded.subList(0, 100)))
+                .then(userRepository.deleteById(seeded.get(500).getId()))
+                .subscribeOn(Schedulers.boundedElastic());
+        Mono.when(refresh, writes).block(TIMEOUT);
+
+        assertMatchesRepository();
+    }
+
+    @Test
+    void overlappingRefreshCallsShareOneLoad() {
+        save("overlap_", 100).blockLast(TIMEOUT);
+
+        Mono<Integer> first = userSnapshot.refresh();
+        Mono<Integer> second = userSnapshot.refresh();
+
+        assertThat(second).isSameAs(first);
+        Tuple2<Integer, Integer> counts = Mono.zip(first, second).block(TIMEOUT);
+        assertThat(counts.getT1()).isEqualTo(100);
+        assertThat(counts.getT2()).isEqualTo(100);
+        // 적재가 끝나면 다음 호출은 새로 적재
+        assertThat(userSnapshot.refresh()).isNotSameAs(first);
+    }
+
+    @Test
+    void repositorySaveReachesSnapshotWithCreatedAt() {
+        User saved = userRepository.save(User.builder()
+                        .name("callback")
+                        .email("callback@example.com")
+                        .build())
+                .block(TIMEOUT);
+
+        assertThat(userSnapshot.findAll().collectList().block(TIMEOUT))
+                .singleElement()
+                .satisfies(user -> {
+                    assertThat(user.getId()).isEqualTo(saved.getId());
+                    assertThat(user.getName()).isEqualTo("callback");
+                    assertThat(user.getCreatedAt()).isNotNull();
+                });
+        assertMatchesRepository();
+    }
+
+    @Test
+    void everyDeletePathReachesSnapshot() {
+        List<User> users = save("delete_", 6).collectList().block(TIMEOUT);
+
+        userService.deleteUser(users.get(0).getId()).block(TIMEOUT);
+        userRepository.delete(users.get(1)).block(TIMEOUT);
+        userRepository.deleteAllById(List.of(users.get(2).getId(), users.get(3).getId())).block(TIMEOUT);
+        assertThat(userSnapshot.count()).contains(2L);
+        assertMatchesRepository();
+
+        userRepository.deleteAll().block(TIMEOUT);
+        assertThat(userSnapshot.count()).contains(0L);
+    }
+
+    @Test
+    void failedIncrementalUpdateFallsBackToDatabaseAndReloads() {
+        save("reload_", 10).blockLast(TIMEOUT);
+        // 스냅샷을 거치지 않는 행을 추가해 두고, 증분 반영 실패 후 재적재로 맞춰지는지 확인
+        databaseClient.sql("INSERT INTO users (name, email) VALUES ('raw', 'raw@example.com')")
+                .then()
+                .block(TIMEOUT);
+
+        userSnapshot.applyWrite(snapshot -> {
+            throw new IllegalStateException("증분 반영 실패");
+        });
+
+        // 재적재 중에도 DB 기준 개수를 반환
+        assertThat(userService.countUsers().block(TIMEOUT)).isEqualTo(11L);
+        await().atMost(TIMEOUT).until(userSnapshot::isReady);
+        assertThat(userSnapshot.count()).contains(11L);
+    }
+
+    private Flux<User> save(String prefix, int count) {
+        return userRepository.saveAll(Flux.range(0, count)
+                .map(i -> User.builder()
+                        .name(prefix + i)
+                        .email(prefix + i + "@example.com")
+                        .build()));
+    }
+
+    private void assertMatchesRepository() {
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        assertThat(userSnapshot.count()).contains(userRepository.count().block(TIMEOUT));
+        assertThat(userSnapshot.findAll().map(User::getId).collectList().block(TIMEOUT))
+                .containsExactlyElementsOf(userRepository.findAll()
+                        .map(User::getId)
+                        .sort()
+                        .collectList()
+                        .block(TIMEOUT));
+        assertThat(userSnapshot.findCreatedBetween(from, to).orElseThrow())
+                .extracting(User::getId)
+                .containsExactlyInAnyOrderElementsOf(userRepository.findByCreatedAtBetween(from, to)
+                        .map(User::getId)
+                        .collectList()
+                        .block(TIMEOUT));
+    }
+}
@@ -0,0 +1,58 @@
+package com.webflux.sample.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 테스트용 내장 PostgreSQL (별도 서버나 Docker 없이 postgres 프로파일 실행)
+ * JVM당 한 번만 시작하고 여러 테스트 컨텍스트가 공유
+ */
+public final class EmbeddedPostgresSupport {
+
+    private static final String DATABASE = "webflux_sample";
+
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    /**
+     * postgres 프로파일의 접속 정보(POSTGRES_*)를 내장 PostgreSQL로 지정
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres server = start();
+        registry.add("POSTGRES_HOST", () -> "localhost");
+        registry.add("POSTGRES_PORT", server::getPort);
+        registry.add("POSTGRES_DB", () -> DATABASE);
+        registry.add("POSTGRES_USER", () -> "postgres");
+    }
+
+    private static synchronized EmbeddedPostgres start() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+                try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                     Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE DATABASE " + DATABASE);
+                }
+            } catch (IOException | SQLException e) {
+                throw new IllegalStateException("내장 PostgreSQL 시작 실패", e);
+            }
+
+            EmbeddedPostgres started = postgres;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException ignored) {
+                    // JVM 종료 중이므로 무시
+                }
+            }));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,128 @@
+package com.webflux.sample.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webflux.sample.WebfluxSampleApplication;
+import com.webflux.sample.entity.User;
+import com.webflux.sample.repository.UserRepository;
+import com.webflux.sample.service.UserStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * /ws/stream/* 엔드포인트의 텍스트 요청량 파싱, CBOR 바이너리 프레임, DB 읽기량 검증
+ */
+@SpringBootTest(classes = WebfluxSampleApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.data-loader.enabled=false")
+class DemandDrivenWebSocketEndpointTest {
+
+    private static final int USERS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @MockitoSpyBean
+    private UserStreamService userStreamService;
+
+    private final AtomicInteger rowsRead = new AtomicInteger();
+
+    private final WebSocketClient client = new ReactorNettyWebSocketClient();
+
+    private ObjectMapper cborMapper;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository.deleteAll()
+                .thenMany(userRepository.saveAll(Flux.range(0, USERS)
+                        .map(i -> User.builder()
+                                .name("ws_" + i)
+                                .email("ws" + i + "@example.com")
+                                .build())))
+                .blockLast();
+
+        // R2DBC 쿼리에서 실제로 읽혀 나온 행 수 기록
+        doAnswer(invocation -> ((Flux<User>) invocation.callRealMethod())
+                .doOnNext(user -> rowsRead.incrementAndGet()))
+                .when(userStreamService).streamUsers();
+
+        cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+    }
+
+    @Test
+    void creditOfFiveReadsFiveRowsAsCborFrames() {
+        // 잘못된 요청량은 무시되고 "5"만 요청량으로 반영되어야 함
+        List<User> received = exchange("/ws/stream/users", 5, User.class, "abc", "0", "-1", " 5 ");
+
+        assertThat(received).hasSize(5)
+                .allSatisfy(user -> {
+                    assertThat(user.getId()).isNotNull();
+                    assertThat(user.getName()).startsWith("ws_");
+                    assertThat(user.getCreatedAt()).isNotNull();
+                });
+        // 클라이언트 요청량을 넘어서 DB에서 읽지 않음
+        assertThat(rowsRead.get()).isEqualTo(5);
+    }
+
+    @Test
+    void chunkedEndpointSendsOneFramePerChunk() {
+        List<User[]> received = exchange("/ws/stream/users/chunked", 2, User[].class, "2");
+
+        assertThat(received).hasSize(2)
+                .allSatisfy(chunk -> assertThat(chunk).hasSize(10));
+    }
+
+    private <T> List<T> exchange(String path, int frames, Class<T> type, String... creditMessages) {
+        List<T> received = new CopyOnWriteArrayList<>();
+
+        client.execute(URI.create("ws://localhost:" + port + path), session -> session
+                        .send(Flux.just(creditMessages).map(session::textMessage))
+                        .and(session.receive()
+                                .take(frames)
+                                .doOnNext(message -> {
+                                    assertThat(message.getType()).isEqualTo(WebSocketMessage.Type.BINARY);
+                                    received.add(decode(message.getPayload(), type));
+                                })))
+                .block(Duration.ofSeconds(10));
+
+        return received;
+    }
+
+    private <T> T decode(DataBuffer payload, Class<T> type) {
+        byte[] bytes = new byte[payload.readableByteCount()];
+        payload.read(bytes);
+        try {
+            return cborMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.webflux.sample.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DemandDrivenWebSocketHandlerTest {
+
+    @Test
+    void requestsOnlyWhatClientCredits() {
+        AtomicLong requested = new AtomicLong();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flux<Integer> source = Flux.range(1, 100)
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+                .doOnRequest(requested::addAndGet);
+        Sinks.Many<Long> credits = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(DemandDrivenWebSocketHandler.withDemand(source, credits.asFlux()))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .then(() -> assertThat(subscriptions).hasValue(0))
+                .then(() -> assertThat(requested).hasValue(0))
+                .then(() -> credits.tryEmitNext(3L))
+                .expectNext(1, 2, 3)
+                .expectNoEvent(Duration.ofMillis(50))
+                .then(() -> assertThat(requested).hasValue(3))
+                .then(() -> credits.tryEmitNext(2L))
+                .expectNext(4, 5)
+                .thenCancel()
+                .verify();
+
+        assertThat(requested).hasValue(5);
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void completesWhenSourceIsExhausted() {
+        Sinks.Many<Long> credits = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(DemandDrivenWebSocketHandler.withDemand(Flux.just("a", "b"), credits.asFlux()))
+                .then(() -> credits.tryEmitNext(10L))
+                .expectNext("a", "b")
+                .verifyComplete();
+    }
+
+    @Test
+    void keepsCreditThatArrivesBeforeAsynchronousOnSubscribe() {
+        // onSubscribe가 구독 호출 이후 다른 스레드에서 늦게 도착하는 source
+        Publisher<Integer> delayedSubscribe = subscriber -> Schedulers.single()
+                .schedule(() -> Flux.range(1, 10).subscribe(subscriber), 50, TimeUnit.MILLISECONDS);
+        Sinks.Many<Long> credits = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(DemandDrivenWebSocketHandler.withDemand(Flux.from(delayedSubscribe), credits.asFlux()))
+                .then(() -> credits.tryEmitNext(3L))
+                .expectNext(1, 2, 3)
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+}